@@ -4,6 +4,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -29,6 +36,16 @@ public class ATSPSolver {
     private double tau0 = 1e-3;
     @Builder.Default
     private int nIterations = 1;
+    /**
+     * Solved instances are looked up here before solving, null to disable caching
+     */
+    private SolutionCache cache;
+    /**
+     * Solver state is periodically saved to this file and restored from it on start, null to disable checkpoints
+     */
+    private Path checkpointFile;
+    @Builder.Default
+    private int checkpointInterval = 10;
 
     private Graph convertAdjacencyListToGraph(List<List<Link>> adjacencyList) {
         int nNodes = adjacencyList.size();
@@ -43,18 +60,92 @@ public class ATSPSolver {
         return graph;
     }
 
+    /**
+     * Content hash of cost matrix and solver parameters
+     */
+    private String fingerprint(Graph graph) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+        var params = String.join(":", String.valueOf(q0), String.valueOf(beta), String.valueOf(rho),
+                String.valueOf(alpha), String.valueOf(nAnts), String.valueOf(tau0), String.valueOf(nIterations));
+        digest.update(params.getBytes(StandardCharsets.US_ASCII));
+
+        for (int i = 0; i < graph.adjacencyList.size(); ++i) {
+            var row = graph.adjacencyList.get(i);
+            var buffer = ByteBuffer.allocate(Integer.BYTES + (Integer.BYTES + Double.BYTES) * row.size());
+            buffer.putInt(row.size());
+            for (var node : row) {
+                buffer.putInt(node);
+                buffer.putDouble(graph.costs[i][node]);
+            }
+            digest.update(buffer.array());
+        }
+
+        var hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    String fingerprint(List<List<Link>> adjacencyList) {
+        return fingerprint(convertAdjacencyListToGraph(adjacencyList));
+    }
+
+    private boolean isValidTour(Tour tour, int nNodes) {
+        if (tour.tour.size() != nNodes) {
+            return false;
+        }
+        for (int node : tour.tour) {
+            if (node < 0 || node >= nNodes) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * @return Best found hamilton's cycle
      */
     public Tour solve(List<List<Link>> adjacencyList) {
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("checkpoint interval should be positive");
+        }
         var graph = convertAdjacencyListToGraph(adjacencyList);
-        for (double[] row : graph.pheromones) {
-            Arrays.fill(row, tau0);
+        int nNodes = graph.adjacencyList.size();
+        String fingerprint = cache != null || checkpointFile != null ? fingerprint(graph) : null;
+
+        if (cache != null) {
+            var cached = cache.get(fingerprint);
+            if (cached.isPresent() && isValidTour(cached.get(), nNodes)) {
+                return cached.get();
+            }
+        }
+
+        var state = checkpointFile != null ? Checkpoint.read(checkpointFile, fingerprint, nNodes) : null;
+        if (state != null && state.iteration < nIterations) {
+            graph.pheromones = state.pheromones;
+        } else {
+            for (double[] row : graph.pheromones) {
+                Arrays.fill(row, tau0);
+            }
+            state = new Checkpoint(fingerprint, 0, Collections.emptyList(), Double.POSITIVE_INFINITY,
+                    graph.pheromones);
+        }
+
+        var tour = solve(graph, state);
+        // failed run may succeed on retry, so only complete tours are cached
+        if (cache != null && !tour.tour.isEmpty() && Double.isFinite(tour.cost)) {
+            cache.put(fingerprint, tour);
         }
-        return solve(graph);
+        return tour;
     }
 
-    private Tour solve(Graph graph) {
+    private Tour solve(Graph graph, Checkpoint state) {
         int nNodes = graph.adjacencyList.size();
         // TODO: размещать каждого каждого муравья на своем городе
         var ants = new ArrayList<Ant>();
@@ -62,11 +153,11 @@ public class ATSPSolver {
             ants.add(new Ant(nNodes, rng.nextInt(nNodes)));
         }
 
-        var bestTour = Collections.<Integer>emptyList();
-        var bestTourCost = Double.POSITIVE_INFINITY;
+        var bestTour = state.bestTour;
+        var bestTourCost = state.bestTourCost;
         boolean[] antTerminated = new boolean[ants.size()];
 
-        for (int k = 0; k < nIterations; ++k) {
+        for (int k = state.iteration; k < nIterations; ++k) {
             Arrays.fill(antTerminated, false);
             for (var ant : ants) {
                 ant.tourCost = 0d;
@@ -113,6 +204,26 @@ public class ATSPSolver {
             }
 
             updateTourPheromone(bestTour, bestTourCost, graph);
+
+            if (checkpointFile != null && (k + 1) % checkpointInterval == 0 && k + 1 < nIterations) {
+                state.iteration = k + 1;
+                state.bestTour = bestTour;
+                state.bestTourCost = bestTourCost;
+                try {
+                    state.write(checkpointFile);
+                } catch (IOException ignored) {
+                    // checkpoints are best effort, run goes on without this one
+                }
+            }
+        }
+
+        // checkpoint only serves to resume interrupted run, finished results belong to cache
+        if (checkpointFile != null) {
+            try {
+                Files.deleteIfExists(checkpointFile);
+            } catch (IOException ignored) {
+                // stale checkpoint is harmless, it is ignored once iteration >= nIterations
+            }
         }
 
         return new Tour(bestTour, bestTourCost);
@@ -0,0 +1,102 @@
+package aco;
+
+import lombok.AllArgsConstructor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Snapshot of {@link ATSPSolver} state, stored in binary form so that long runs can be resumed
+ */
+@AllArgsConstructor
+class Checkpoint {
+
+    private static final int MAGIC = 0x41545350;
+    private static final int VERSION = 2;
+
+    String fingerprint;
+    int iteration;
+    List<Integer> bestTour;
+    double bestTourCost;
+    double[][] pheromones;
+
+    void write(Path file) throws IOException {
+        var dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        var tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(fingerprint);
+                out.writeInt(pheromones.length);
+                out.writeInt(iteration);
+                out.writeDouble(bestTourCost);
+                out.writeInt(bestTour.size());
+                for (int node : bestTour) {
+                    out.writeInt(node);
+                }
+                for (double[] row : pheromones) {
+                    for (double value : row) {
+                        out.writeDouble(value);
+                    }
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * @return Checkpoint stored in file or null if file doesn't exist, can't be read
+     * or was made for another instance than the one identified by fingerprint and nNodes
+     */
+    static Checkpoint read(Path file, String fingerprint, int nNodes) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+            if (!in.readUTF().equals(fingerprint) || in.readInt() != nNodes) {
+                return null;
+            }
+            int iteration = in.readInt();
+            double bestTourCost = in.readDouble();
+            int tourSize = in.readInt();
+            if (iteration < 0 || Double.isNaN(bestTourCost) || tourSize < 0 || tourSize > nNodes) {
+                return null;
+            }
+            var bestTour = new ArrayList<Integer>(tourSize);
+            for (int i = 0; i < tourSize; ++i) {
+                int node = in.readInt();
+                if (node < 0 || node >= nNodes) {
+                    return null;
+                }
+                bestTour.add(node);
+            }
+            var pheromones = new double[nNodes][nNodes];
+            for (double[] row : pheromones) {
+                for (int j = 0; j < nNodes; ++j) {
+                    row[j] = in.readDouble();
+                }
+            }
+            if (in.read() != -1) {
+                return null;
+            }
+            return new Checkpoint(fingerprint, iteration, bestTour, bestTourCost, pheromones);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
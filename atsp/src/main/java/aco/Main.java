@@ -1,24 +1,33 @@
 package aco;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 
 public class Main {
 
+    private static final SolutionCache cache = new SolutionCache(8, Path.of("build", "solutions"), 32);
+
     private static void runDataset(String dsName) throws IOException {
         var model = ATSPSolver.builder()
                 .nAnts(100)
                 .nIterations(100)
+                .cache(cache)
+                .checkpointFile(Path.of("build", "checkpoints", dsName))
+                .checkpointInterval(10)
                 .build();
 
         var parser = new ATSPParser();
         var graph = parser.parse(Main.class.getClassLoader().getResourceAsStream(dsName));
+        long startTime = System.currentTimeMillis();
         var tour = model.solve(graph);
+        long solveTime = System.currentTimeMillis() - startTime;
 
         System.out.println("dataset: " + dsName);
         System.out.println("nodes number: " + graph.size());
         System.out.println("best tour found: " + tour.tour);
         System.out.println("best tour cost: " + tour.cost);
+        System.out.println("solved in: " + solveTime + " ms");
     }
 
     public static void main(String[] args) throws IOException {
@@ -0,0 +1,164 @@
+package aco;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * LRU cache of solved tours keyed by instance fingerprint, optionally backed by a directory on disk.
+ * Disk tier is bounded separately, its entries are evicted in order of last write or read from disk
+ */
+public class SolutionCache {
+
+    private static final int MAGIC = 0x41545354;
+    private static final int VERSION = 1;
+    private static final String FILE_SUFFIX = ".tour";
+    private static final String TMP_SUFFIX = ".tmp";
+
+    private final Map<String, ATSPSolver.Tour> memory;
+    private final Path directory;
+    private final int diskCapacity;
+
+    /**
+     * @param directory    where solutions are persisted, null to keep solutions in memory only
+     * @param diskCapacity max number of solutions kept in directory
+     */
+    public SolutionCache(int capacity, Path directory, int diskCapacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("cache capacity should be positive");
+        }
+        if (directory != null && diskCapacity <= 0) {
+            throw new IllegalArgumentException("disk cache capacity should be positive");
+        }
+        this.directory = directory;
+        this.diskCapacity = diskCapacity;
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ATSPSolver.Tour> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public synchronized Optional<ATSPSolver.Tour> get(String fingerprint) {
+        var tour = memory.get(fingerprint);
+        if (tour == null && directory != null) {
+            tour = readTour(fingerprint);
+            if (tour != null) {
+                memory.put(fingerprint, tour);
+            }
+        }
+        return Optional.ofNullable(tour).map(SolutionCache::copy);
+    }
+
+    /**
+     * Disk tier is best effort, failure to persist solution doesn't affect memory tier
+     */
+    public synchronized void put(String fingerprint, ATSPSolver.Tour tour) {
+        memory.put(fingerprint, copy(tour));
+        if (directory != null) {
+            try {
+                writeTour(fingerprint, tour);
+                evictDisk();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static ATSPSolver.Tour copy(ATSPSolver.Tour tour) {
+        return new ATSPSolver.Tour(new ArrayList<>(tour.tour), tour.cost);
+    }
+
+    /**
+     * @return Tour stored on disk or null if it is absent or can't be read
+     */
+    private ATSPSolver.Tour readTour(String fingerprint) {
+        var file = directory.resolve(fingerprint + FILE_SUFFIX);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        ATSPSolver.Tour result;
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+            int size = in.readInt();
+            if (size < 0) {
+                return null;
+            }
+            var tour = new ArrayList<Integer>(Math.min(size, 1 << 15));
+            for (int i = 0; i < size; ++i) {
+                tour.add(in.readInt());
+            }
+            double cost = in.readDouble();
+            if (Double.isNaN(cost) || in.read() != -1) {
+                return null;
+            }
+            result = new ATSPSolver.Tour(tour, cost);
+        } catch (IOException e) {
+            return null;
+        }
+        // touch only affects eviction order, so hit stays valid even if it fails
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+        }
+        return result;
+    }
+
+    private void writeTour(String fingerprint, ATSPSolver.Tour tour) throws IOException {
+        Files.createDirectories(directory);
+        var tmp = Files.createTempFile(directory, fingerprint, TMP_SUFFIX);
+        try {
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(tour.tour.size());
+                for (int node : tour.tour) {
+                    out.writeInt(node);
+                }
+                out.writeDouble(tour.cost);
+            }
+            Files.move(tmp, directory.resolve(fingerprint + FILE_SUFFIX),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Removes least recently used solutions from disk until diskCapacity is met
+     */
+    private void evictDisk() throws IOException {
+        List<Path> files;
+        try (var listing = Files.list(directory)) {
+            files = listing.filter(file -> file.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .collect(Collectors.toList());
+        }
+        if (files.size() <= diskCapacity) {
+            return;
+        }
+        var lastModified = new HashMap<Path, FileTime>();
+        for (var file : files) {
+            lastModified.put(file, Files.getLastModifiedTime(file));
+        }
+        files.sort(Comparator.comparing(lastModified::get));
+        for (var file : files.subList(0, files.size() - diskCapacity)) {
+            Files.deleteIfExists(file);
+        }
+    }
+}
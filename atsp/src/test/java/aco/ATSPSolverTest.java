@@ -0,0 +1,124 @@
+package aco;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ATSPSolverTest {
+
+    @TempDir
+    Path dir;
+
+    private List<List<ATSPSolver.Link>> loadGraph() throws IOException {
+        return new ATSPParser().parse(ATSPSolverTest.class.getClassLoader().getResourceAsStream("br17"));
+    }
+
+    private List<Integer> identityTour(int nNodes) {
+        var tour = new ArrayList<Integer>();
+        for (int i = 0; i < nNodes; ++i) {
+            tour.add(i);
+        }
+        return tour;
+    }
+
+    private double[][] pheromones(int nNodes) {
+        var pheromones = new double[nNodes][nNodes];
+        for (double[] row : pheromones) {
+            Arrays.fill(row, 1e-3);
+        }
+        return pheromones;
+    }
+
+    @Test
+    void rejectsNonPositiveCheckpointInterval() throws IOException {
+        var graph = loadGraph();
+        var solver = ATSPSolver.builder().checkpointInterval(0).build();
+
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(graph));
+    }
+
+    @Test
+    void resumesInterruptedRun() throws IOException {
+        var graph = loadGraph();
+        var checkpointFile = dir.resolve("checkpoint");
+        var solver = ATSPSolver.builder().nIterations(30).checkpointFile(checkpointFile).build();
+        // best cost below any real tour shows that restored state was used
+        new Checkpoint(solver.fingerprint(graph), 29, identityTour(graph.size()), 1, pheromones(graph.size()))
+                .write(checkpointFile);
+
+        var tour = solver.solve(graph);
+        assertEquals(1, tour.cost);
+        assertEquals(identityTour(graph.size()), tour.tour);
+        assertFalse(Files.exists(checkpointFile));
+    }
+
+    @Test
+    void ignoresFinishedCheckpoint() throws IOException {
+        var graph = loadGraph();
+        var checkpointFile = dir.resolve("checkpoint");
+        var solver = ATSPSolver.builder().nIterations(30).checkpointFile(checkpointFile).build();
+        new Checkpoint(solver.fingerprint(graph), 30, identityTour(graph.size()), 1, pheromones(graph.size()))
+                .write(checkpointFile);
+
+        assertTrue(solver.solve(graph).cost > 1);
+    }
+
+    @Test
+    void survivesUnwritableCheckpoint() throws IOException {
+        var graph = loadGraph();
+        var blocker = Files.createFile(dir.resolve("blocker"));
+        var solver = ATSPSolver.builder()
+                .nIterations(10)
+                .checkpointInterval(2)
+                .checkpointFile(blocker.resolve("checkpoint"))
+                .build();
+
+        var tour = solver.solve(graph);
+        assertEquals(graph.size(), tour.tour.size());
+    }
+
+    @Test
+    void returnsCachedTour() throws IOException {
+        var graph = loadGraph();
+        var cache = new SolutionCache(1, null, 0);
+        var solver = ATSPSolver.builder().nIterations(5).cache(cache).build();
+        var cached = new ATSPSolver.Tour(identityTour(graph.size()), 1);
+        cache.put(solver.fingerprint(graph), cached);
+
+        assertEquals(1, solver.solve(graph).cost);
+    }
+
+    @Test
+    void ignoresInvalidCachedTour() throws IOException {
+        var graph = loadGraph();
+        var cache = new SolutionCache(1, null, 0);
+        var solver = ATSPSolver.builder().nIterations(5).cache(cache).build();
+        var tour = identityTour(graph.size());
+        tour.set(0, graph.size());
+        cache.put(solver.fingerprint(graph), new ATSPSolver.Tour(tour, 1));
+
+        assertTrue(solver.solve(graph).cost > 1);
+    }
+
+    @Test
+    void doesNotCacheFailedRun() {
+        // no node has outgoing links, so no ant completes a tour
+        var graph = List.<List<ATSPSolver.Link>>of(List.of(), List.of(), List.of());
+        var cache = new SolutionCache(1, null, 0);
+        var solver = ATSPSolver.builder().nIterations(2).cache(cache).build();
+
+        assertEquals(Double.POSITIVE_INFINITY, solver.solve(graph).cost);
+        assertTrue(cache.get(solver.fingerprint(graph)).isEmpty());
+    }
+}
@@ -0,0 +1,125 @@
+package aco;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CheckpointTest {
+
+    @TempDir
+    Path dir;
+
+    private Checkpoint checkpoint(int nNodes) {
+        var pheromones = new double[nNodes][nNodes];
+        for (double[] row : pheromones) {
+            Arrays.fill(row, 0.5);
+        }
+        pheromones[1][2] = 7;
+        return new Checkpoint("abc", 7, List.of(2, 0, 1), 42.5, pheromones);
+    }
+
+    @Test
+    void readsBackWrittenState() throws IOException {
+        var file = dir.resolve("checkpoint");
+        checkpoint(3).write(file);
+
+        var restored = Checkpoint.read(file, "abc", 3);
+        assertNotNull(restored);
+        assertEquals(7, restored.iteration);
+        assertEquals(List.of(2, 0, 1), restored.bestTour);
+        assertEquals(42.5, restored.bestTourCost);
+        assertArrayEquals(checkpoint(3).pheromones, restored.pheromones);
+        try (var files = Files.list(dir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void ignoresMissingFile() {
+        assertNull(Checkpoint.read(dir.resolve("missing"), "abc", 3));
+    }
+
+    @Test
+    void ignoresCheckpointOfAnotherInstance() throws IOException {
+        var file = dir.resolve("checkpoint");
+        checkpoint(3).write(file);
+
+        assertNull(Checkpoint.read(file, "other", 3));
+        assertNull(Checkpoint.read(file, "abc", 4));
+    }
+
+    @Test
+    void ignoresTruncatedFile() throws IOException {
+        var file = dir.resolve("checkpoint");
+        checkpoint(3).write(file);
+        var bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertNull(Checkpoint.read(file, "abc", 3));
+    }
+
+    @Test
+    void ignoresTrailingBytes() throws IOException {
+        var file = dir.resolve("checkpoint");
+        checkpoint(3).write(file);
+        var bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length + 1));
+
+        assertNull(Checkpoint.read(file, "abc", 3));
+    }
+
+    @Test
+    void ignoresOtherFormatVersion() throws IOException {
+        var file = dir.resolve("checkpoint");
+        checkpoint(3).write(file);
+        var bytes = Files.readAllBytes(file);
+        bytes[7] = 99;
+        Files.write(file, bytes);
+
+        assertNull(Checkpoint.read(file, "abc", 3));
+    }
+
+    @Test
+    void ignoresInvalidState() throws IOException {
+        var file = dir.resolve("checkpoint");
+        var state = checkpoint(3);
+
+        state.bestTour = List.of(0, 1, 3);
+        state.write(file);
+        assertNull(Checkpoint.read(file, "abc", 3));
+
+        state.bestTour = List.of(0, 1, 2);
+        state.iteration = -1;
+        state.write(file);
+        assertNull(Checkpoint.read(file, "abc", 3));
+
+        state.iteration = 1;
+        state.bestTourCost = Double.NaN;
+        state.write(file);
+        assertNull(Checkpoint.read(file, "abc", 3));
+    }
+
+    @Test
+    void doesNotAllocateMatrixFromCorruptedHeader() throws IOException {
+        var file = dir.resolve("checkpoint");
+        try (var out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(0x41545350);
+            out.writeInt(2);
+            out.writeUTF("abc");
+            out.writeInt(1 << 15);
+        }
+
+        assertNull(Checkpoint.read(file, "abc", 3));
+    }
+}
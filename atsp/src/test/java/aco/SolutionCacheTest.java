@@ -0,0 +1,95 @@
+package aco;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SolutionCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private List<String> diskEntries() throws IOException {
+        try (var files = Files.list(dir)) {
+            return files.map(file -> file.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SolutionCache(0, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SolutionCache(1, dir, 0));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedFromMemory() {
+        var cache = new SolutionCache(2, null, 0);
+        cache.put("a", new ATSPSolver.Tour(List.of(0), 1));
+        cache.put("b", new ATSPSolver.Tour(List.of(1), 2));
+        cache.get("a");
+        cache.put("c", new ATSPSolver.Tour(List.of(2), 3));
+
+        assertTrue(cache.get("a").isPresent());
+        assertTrue(cache.get("b").isEmpty());
+        assertTrue(cache.get("c").isPresent());
+    }
+
+    @Test
+    void returnsCopies() {
+        var cache = new SolutionCache(1, null, 0);
+        cache.put("a", new ATSPSolver.Tour(List.of(0, 1), 1));
+        cache.get("a").orElseThrow().tour.clear();
+
+        assertEquals(List.of(0, 1), cache.get("a").orElseThrow().tour);
+    }
+
+    @Test
+    void readsBackFromDisk() {
+        new SolutionCache(1, dir, 1).put("a", new ATSPSolver.Tour(List.of(1, 0), 3));
+
+        var tour = new SolutionCache(1, dir, 1).get("a").orElseThrow();
+        assertEquals(List.of(1, 0), tour.tour);
+        assertEquals(3, tour.cost);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedFromDisk() throws IOException {
+        var cache = new SolutionCache(1, dir, 2);
+        for (var key : List.of("a", "b", "c", "d")) {
+            cache.put(key, new ATSPSolver.Tour(List.of(0), 1));
+            // file times may be coarse, so order entries explicitly
+            Files.setLastModifiedTime(dir.resolve(key + ".tour"),
+                    FileTime.fromMillis(1000L * (key.charAt(0) - 'a' + 1)));
+        }
+
+        assertEquals(List.of("c.tour", "d.tour"), diskEntries());
+    }
+
+    @Test
+    void treatsCorruptedEntryAsMiss() throws IOException {
+        new SolutionCache(1, dir, 1).put("a", new ATSPSolver.Tour(List.of(1, 0), 3));
+        var file = dir.resolve("a.tour");
+        var bytes = Files.readAllBytes(file);
+
+        Files.write(file, Arrays.copyOf(bytes, bytes.length + 4));
+        assertTrue(new SolutionCache(1, dir, 1).get("a").isEmpty());
+
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        assertTrue(new SolutionCache(1, dir, 1).get("a").isEmpty());
+
+        bytes[0] = 0;
+        Files.write(file, bytes);
+        assertTrue(new SolutionCache(1, dir, 1).get("a").isEmpty());
+    }
+}